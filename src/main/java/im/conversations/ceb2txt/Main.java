@@ -1,11 +1,13 @@
 package im.conversations.ceb2txt;
 
 import com.google.common.base.Strings;
+import com.google.gson.JsonObject;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import im.conversations.ceb2txt.entities.Account;
 import im.conversations.ceb2txt.entities.Conversation;
 import im.conversations.ceb2txt.entities.Message;
+import im.conversations.ceb2txt.entities.RtpSessionStatus;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
@@ -23,6 +25,7 @@ import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
 import org.conscrypt.Conscrypt;
+import org.jxmpp.jid.Jid;
 import org.jxmpp.stringprep.libidn.LibIdnXmppStringprep;
 import org.sql2o.Connection;
 import org.sql2o.Query;
@@ -41,6 +44,10 @@ public class Main {
                     "identities");
     private static final Pattern COLUMN_PATTERN = Pattern.compile("^[a-zA-Z_]+$");
 
+    private static final String FORMAT_OPTION = "--format=";
+    private static final String FORMAT_TXT = "txt";
+    private static final String FORMAT_JSONL = "jsonl";
+
     public static final String KEYTYPE = "AES";
     public static final String CIPHERMODE = "AES/GCM/NoPadding";
 
@@ -79,11 +86,24 @@ public class Main {
     }
 
     public static void main(final String... args) throws Exception {
-        if (args.length != 1) {
-            System.err.println("Usage java -jar im.conversations.ceb2txt-0.1.jar [filename]");
+        final String format;
+        final String cebFile;
+        if (args.length == 1) {
+            format = FORMAT_TXT;
+            cebFile = args[0];
+        } else if (args.length == 2 && args[0].startsWith(FORMAT_OPTION)) {
+            format = args[0].substring(FORMAT_OPTION.length());
+            cebFile = args[1];
+        } else {
+            format = null;
+            cebFile = null;
+        }
+        if (cebFile == null || !(FORMAT_TXT.equals(format) || FORMAT_JSONL.equals(format))) {
+            System.err.println(
+                    "Usage java -jar im.conversations.ceb2txt-0.1.jar [--format=txt|jsonl]"
+                            + " [filename]");
             System.exit(1);
         }
-        final String cebFile = args[0];
         final File file = new File(cebFile);
 
         final FileInputStream fileInputStream = new FileInputStream(file);
@@ -164,15 +184,31 @@ public class Main {
                         .addParameter("uuid", account.getUuid())
                         .executeAndFetch(Conversation.class);
 
+        if (FORMAT_JSONL.equals(format)) {
+            writeJsonLines(connection, account, conversationList);
+        } else {
+            writeText(connection, account, conversationList);
+        }
+    }
+
+    private static List<Message> getMessages(
+            final Connection connection, final Conversation conversation) {
+        return connection
+                .createQuery(
+                        "select body,status,timeSent,counterpart,type from messages"
+                                + " where conversationUuid=:conversation")
+                .addParameter("conversation", conversation.getUuid())
+                .executeAndFetch(Message.class);
+    }
+
+    private static void writeText(
+            final Connection connection,
+            final Account account,
+            final List<Conversation> conversationList)
+            throws IOException {
         for (final Conversation conversation : conversationList) {
             final boolean group = conversation.isGroupChat();
-            final List<Message> messageList =
-                    connection
-                            .createQuery(
-                                    "select body,status,timeSent,counterpart,type from messages"
-                                            + " where conversationUuid=:conversation")
-                            .addParameter("conversation", conversation.getUuid())
-                            .executeAndFetch(Message.class);
+            final List<Message> messageList = getMessages(connection, conversation);
             PrintWriter writer = null;
             String currentDate = null;
             for (final Message message : messageList) {
@@ -228,6 +264,59 @@ public class Main {
                         + "/*/*.txt");
     }
 
+    private static void writeJsonLines(
+            final Connection connection,
+            final Account account,
+            final List<Conversation> conversationList)
+            throws IOException {
+        final File file = new File(account.getJid().asBareJid().toString() + "/messages.jsonl");
+        file.getParentFile().mkdirs();
+        int count = 0;
+        try (final Writer writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(
+                                new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            for (final Conversation conversation : conversationList) {
+                final boolean group = conversation.isGroupChat();
+                final String contact = conversation.getContact().asBareJid().toString();
+                for (final Message message : getMessages(connection, conversation)) {
+                    final JsonObject jsonObject = new JsonObject();
+                    jsonObject.addProperty("conversation", conversation.getUuid());
+                    jsonObject.addProperty("contact", contact);
+                    jsonObject.addProperty("group", group);
+                    jsonObject.addProperty("timeSent", message.getTimeSent());
+                    jsonObject.addProperty("status", message.getStatus());
+                    jsonObject.addProperty("type", message.getType());
+                    final Jid counterpart = message.getCounterpart();
+                    jsonObject.addProperty(
+                            "counterpart", counterpart == null ? null : counterpart.toString());
+                    if (message.isFileOrImage()) {
+                        final Message.FileParams fileParams = message.getFileParams();
+                        final JsonObject fileObject = new JsonObject();
+                        fileObject.addProperty("url", fileParams.url);
+                        fileObject.addProperty("size", fileParams.size);
+                        fileObject.addProperty("width", fileParams.width);
+                        fileObject.addProperty("height", fileParams.height);
+                        fileObject.addProperty("runtime", fileParams.runtime);
+                        jsonObject.add("file", fileObject);
+                    } else if (message.isRtpSession()) {
+                        final RtpSessionStatus rtpSessionStatus = message.getRtpSessionStatus();
+                        final JsonObject rtp = new JsonObject();
+                        rtp.addProperty("successful", rtpSessionStatus.successful);
+                        rtp.addProperty("duration", rtpSessionStatus.duration);
+                        jsonObject.add("rtp", rtp);
+                    } else {
+                        jsonObject.addProperty("body", message.getRawBody());
+                    }
+                    writer.write(jsonObject.toString());
+                    writer.write('\n');
+                    ++count;
+                }
+            }
+        }
+        System.out.println(count + " messages have been written to " + file.getPath());
+    }
+
     private static void importV1Backup(final Connection connection, final BufferedReader reader)
             throws IOException {
         String line;
@@ -35,6 +35,14 @@ public class Message {
         return timeSent;
     }
 
+    public int getStatus() {
+        return status;
+    }
+
+    public int getType() {
+        return type;
+    }
+
     public boolean isReceived() {
         return status == 0;
     }
@@ -47,8 +55,8 @@ public class Message {
             } else {
                 return fileParams.url;
             }
-        } else if (type == TYPE_RTP_SESSION) {
-            final RtpSessionStatus rtpSessionStatus = RtpSessionStatus.of(body);
+        } else if (isRtpSession()) {
+            final RtpSessionStatus rtpSessionStatus = getRtpSessionStatus();
             if (rtpSessionStatus.successful) {
                 if (status == STATUS_RECEIVED) {
                     return rtpSessionStatus.duration <= 0
@@ -71,7 +79,19 @@ public class Message {
         }
     }
 
-    private boolean isFileOrImage() {
+    public String getRawBody() {
+        return body;
+    }
+
+    public boolean isRtpSession() {
+        return type == TYPE_RTP_SESSION;
+    }
+
+    public RtpSessionStatus getRtpSessionStatus() {
+        return RtpSessionStatus.of(body);
+    }
+
+    public boolean isFileOrImage() {
         return type == TYPE_FILE || type == TYPE_IMAGE || type == TYPE_PRIVATE_FILE;
     }
 
@@ -121,10 +141,10 @@ public class Message {
     }
 
     public Jid getCounterpart() {
-        return JidCreate.fromOrNull(counterpart);
+        return counterpart == null ? null : JidCreate.fromOrNull(counterpart);
     }
 
-    private static class FileParams {
+    public static class FileParams {
         public String url;
         public long size = 0;
         public int width = 0;